@@ -0,0 +1,234 @@
+#!/usr/bin/env python3
+"""Record Telegram webhook updates and replay them against a connector runtime.
+
+Recording runs a small HTTP endpoint that Telegram (or any client) posts to.
+Every request body is appended to a capture file and forwarded unchanged to
+the runtime webhook, so the bot keeps working while traffic is captured.
+
+Capture file format, one record per update:
+    8 bytes  big-endian receive time in milliseconds since the epoch
+    4 bytes  big-endian payload length
+    N bytes  raw JSON payload
+
+Examples:
+    scripts/telegram_update_replay.py record --listen 8099 \\
+        --forward https://<runtime>/inbound/<inbound.context> --out updates.bin
+    scripts/telegram_update_replay.py replay updates.bin \\
+        --target http://localhost:9898/inbound/<inbound.context> --speed 10
+"""
+
+import argparse
+import json
+import struct
+import sys
+import threading
+import time
+import urllib.error
+import urllib.parse
+import urllib.request
+from concurrent.futures import ThreadPoolExecutor
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+from pathlib import Path
+
+RECORD_HEADER = struct.Struct(">qI")
+
+
+def read_records(path: Path):
+    with path.open("rb") as capture:
+        while True:
+            header = capture.read(RECORD_HEADER.size)
+            if not header:
+                return
+            if len(header) < RECORD_HEADER.size:
+                raise ValueError(f"Truncated record header in {path}")
+            received_at_ms, length = RECORD_HEADER.unpack(header)
+            payload = capture.read(length)
+            if len(payload) < length:
+                raise ValueError(f"Truncated record payload in {path}")
+            yield received_at_ms, payload
+
+
+def post(url: str, payload: bytes, secret_token: str | None, timeout: float) -> int:
+    headers = {"Content-Type": "application/json"}
+    if secret_token:
+        headers["X-Telegram-Bot-Api-Secret-Token"] = secret_token
+    request = urllib.request.Request(url, data=payload, headers=headers, method="POST")
+    try:
+        with urllib.request.urlopen(request, timeout=timeout) as response:
+            response.read()
+            return response.status
+    except urllib.error.HTTPError as error:
+        return error.code
+
+
+def record(args: argparse.Namespace) -> None:
+    out_path = Path(args.out)
+    lock = threading.Lock()
+    capture = out_path.open("ab")
+
+    class CaptureHandler(BaseHTTPRequestHandler):
+        def do_POST(self) -> None:
+            payload = self.rfile.read(int(self.headers.get("Content-Length", 0)))
+            with lock:
+                capture.write(RECORD_HEADER.pack(int(time.time() * 1000), len(payload)))
+                capture.write(payload)
+                capture.flush()
+
+            status = 200
+            if args.forward:
+                secret_token = self.headers.get("X-Telegram-Bot-Api-Secret-Token")
+                try:
+                    status = post(args.forward, payload, secret_token, args.timeout)
+                except OSError as error:
+                    self.log_message("forwarding failed: %s", error)
+                    status = 502
+
+            self.send_response(status)
+            self.send_header("Content-Length", "0")
+            self.end_headers()
+
+    server = ThreadingHTTPServer(("", args.listen), CaptureHandler)
+    print(f"Recording updates on port {args.listen} into {out_path}", file=sys.stderr)
+    try:
+        server.serve_forever()
+    except KeyboardInterrupt:
+        pass
+    finally:
+        server.server_close()
+        capture.close()
+
+
+def percentile(sorted_values: list[float], fraction: float) -> float:
+    if not sorted_values:
+        return 0.0
+    index = min(len(sorted_values) - 1, int(round(fraction * (len(sorted_values) - 1))))
+    return sorted_values[index]
+
+
+def replay(args: argparse.Namespace) -> None:
+    records = []
+    seen_update_ids = set()
+    duplicates = 0
+    skipped = 0
+    for received_at_ms, payload in read_records(Path(args.capture)):
+        try:
+            update = json.loads(payload)
+        except ValueError:
+            skipped += 1
+            continue
+        if not isinstance(update, dict):
+            skipped += 1
+            continue
+        update_id = update.get("update_id")
+        if update_id in seen_update_ids:
+            duplicates += 1
+        seen_update_ids.add(update_id)
+        records.append((received_at_ms, payload))
+    if not records:
+        raise ValueError(f"No replayable records found in {args.capture}")
+
+    latencies_ms: list[float] = []
+    statuses: dict[int, int] = {}
+    failures = 0
+    lock = threading.Lock()
+    in_flight = threading.BoundedSemaphore(args.concurrency)
+
+    def send(payload: bytes, intended_start: float) -> None:
+        # Latency is measured from the scheduled send time rather than from when a worker
+        # picked the request up, so time spent waiting behind a slow runtime is included.
+        nonlocal failures
+        try:
+            status = post(args.target, payload, args.secret_token, args.timeout)
+        except Exception:
+            # Anything raised here would otherwise be stored in an unread future and the
+            # request would vanish from every counter.
+            with lock:
+                failures += 1
+            return
+        finally:
+            in_flight.release()
+        elapsed_ms = (time.perf_counter() - intended_start) * 1000
+        with lock:
+            latencies_ms.append(elapsed_ms)
+            statuses[status] = statuses.get(status, 0) + 1
+
+    first_received_at_ms = records[0][0]
+    replay_started = time.perf_counter()
+    with ThreadPoolExecutor(max_workers=args.concurrency) as executor:
+        for index, (received_at_ms, payload) in enumerate(records):
+            if args.rate is not None:
+                due = index / args.rate
+            else:
+                due = (received_at_ms - first_received_at_ms) / 1000 / args.speed
+            intended_start = replay_started + due
+            delay = intended_start - time.perf_counter()
+            if delay > 0:
+                time.sleep(delay)
+            in_flight.acquire()
+            executor.submit(send, payload, intended_start)
+    elapsed = time.perf_counter() - replay_started
+
+    latencies_ms.sort()
+    rejected = sum(count for status, count in statuses.items() if status >= 300)
+    print(f"updates sent:        {len(records)}")
+    print(f"records skipped:     {skipped} (not a JSON object)")
+    print(f"duration:            {elapsed:.2f} s")
+    print(f"throughput:          {len(records) / elapsed:.1f} updates/s")
+    print(f"duplicate update_id: {duplicates}")
+    print(f"rejected (non-2xx):  {rejected}")
+    print(f"request failures:    {failures}")
+    print(f"status codes:        {dict(sorted(statuses.items()))}")
+    for label, fraction in (("p50", 0.50), ("p90", 0.90), ("p99", 0.99), ("p99.9", 0.999)):
+        print(f"latency {label + ':':<12} {percentile(latencies_ms, fraction):.1f} ms")
+    print(f"latency max:         {latencies_ms[-1] if latencies_ms else 0.0:.1f} ms")
+
+
+def http_url(value: str) -> str:
+    parsed = urllib.parse.urlparse(value)
+    if parsed.scheme not in ("http", "https") or not parsed.netloc:
+        raise argparse.ArgumentTypeError(f"expected an absolute http(s) URL, got {value!r}")
+    return value
+
+
+def positive_float(value: str) -> float:
+    number = float(value)
+    if number <= 0:
+        raise argparse.ArgumentTypeError(f"must be greater than 0, got {value}")
+    return number
+
+
+def positive_int(value: str) -> int:
+    number = int(value)
+    if number < 1:
+        raise argparse.ArgumentTypeError(f"must be at least 1, got {value}")
+    return number
+
+
+def main() -> None:
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    commands = parser.add_subparsers(dest="command", required=True)
+
+    record_parser = commands.add_parser("record", help="capture webhook payloads into a file")
+    record_parser.add_argument("--listen", type=int, default=8099, help="port to receive webhook calls on")
+    record_parser.add_argument("--out", required=True, help="capture file to append to")
+    record_parser.add_argument("--forward", type=http_url, help="runtime webhook URL to forward every update to")
+    record_parser.add_argument("--timeout", type=float, default=30.0, help="forwarding timeout in seconds")
+    record_parser.set_defaults(handler=record)
+
+    replay_parser = commands.add_parser("replay", help="replay a capture file against a runtime")
+    replay_parser.add_argument("capture", help="capture file produced by the record command")
+    replay_parser.add_argument("--target", type=http_url, required=True, help="runtime webhook URL")
+    pacing = replay_parser.add_mutually_exclusive_group()
+    pacing.add_argument("--speed", type=positive_float, default=1.0, help="replay at N times the recorded pace")
+    pacing.add_argument("--rate", type=positive_float, help="replay at a fixed rate in updates per second")
+    replay_parser.add_argument("--concurrency", type=positive_int, default=16, help="maximum requests in flight; later sends wait and their wait counts as latency")
+    replay_parser.add_argument("--secret-token", help="value for X-Telegram-Bot-Api-Secret-Token")
+    replay_parser.add_argument("--timeout", type=float, default=30.0, help="request timeout in seconds")
+    replay_parser.set_defaults(handler=replay)
+
+    args = parser.parse_args()
+    args.handler(args)
+
+
+if __name__ == "__main__":
+    main()
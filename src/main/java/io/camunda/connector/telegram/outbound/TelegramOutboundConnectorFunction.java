@@ -10,6 +10,7 @@ import java.util.Map;
     name = "Telegram Outbound Connector",
     inputVariables = {
       "botToken",
+      "apiBaseUrl",
       "operationGroup",
       "operation",
       "_params",
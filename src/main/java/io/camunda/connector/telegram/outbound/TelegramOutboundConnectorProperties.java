@@ -15,6 +15,17 @@ public class TelegramOutboundConnectorProperties {
       binding = @TemplateProperty.PropertyBinding(name = "botToken"))
   private String botToken;
 
+  @TemplateProperty(
+      id = "apiBaseUrl",
+      label = "Bot API Server URL",
+      group = "authentication",
+      description =
+          "Optional base URL of a self-hosted Bot API server (for example: http://localhost:8081; a trailing slash is ignored). Leave empty to use https://api.telegram.org.",
+      feel = Property.FeelMode.optional,
+      optional = true,
+      binding = @TemplateProperty.PropertyBinding(name = "apiBaseUrl"))
+  private String apiBaseUrl;
+
   @TemplateProperty(
       id = "operationGroup",
       label = "Operation Category",
@@ -410,7 +421,7 @@ public class TelegramOutboundConnectorProperties {
       type = TemplateProperty.PropertyType.Hidden,
       feel = Property.FeelMode.disabled,
       defaultValue =
-          "= \"https://api.telegram.org/bot\" + (if is defined(botToken) then string(botToken) else \"\") + \"/\" + (if is defined(operation) then string(operation) else \"\")",
+          "= (if is defined(apiBaseUrl) and apiBaseUrl != null and string(apiBaseUrl) != \"\" then (if ends with(string(apiBaseUrl), \"/\") then substring(string(apiBaseUrl), 1, string length(string(apiBaseUrl)) - 1) else string(apiBaseUrl)) else \"https://api.telegram.org\") + \"/bot\" + (if is defined(botToken) then string(botToken) else \"\") + \"/\" + (if is defined(operation) then string(operation) else \"\")",
       binding = @TemplateProperty.PropertyBinding(name = "url"))
   private String urlHidden;
 
@@ -114,7 +114,7 @@ public class TelegramOutboundTemplateTest {
     assertThat(urlHidden.path("type").asText()).isEqualTo("Hidden");
     assertThat(urlHidden.path("binding").path("name").asText()).isEqualTo("url");
     assertThat(urlHidden.has("feel")).isFalse();
-    assertThat(urlHidden.path("value").asText()).contains("https://api.telegram.org/bot");
+    assertThat(urlHidden.path("value").asText()).contains("https://api.telegram.org", "apiBaseUrl");
 
     JsonNode bodyHidden = findProperty(properties, "bodyHidden");
     assertThat(bodyHidden).isNotNull();
@@ -241,6 +241,59 @@ public class TelegramOutboundTemplateTest {
       .isEqualTo("https://api.telegram.org/bot1234567890:ABCDEF-abcdef/sendChatAction");
   }
 
+  @Test
+  void shouldEvaluateGeneratedUrlFeelScriptWithSelfHostedServer() throws Exception {
+    JsonNode properties = readTemplate().path("properties");
+    String urlExpression = findProperty(properties, "urlHidden").path("value").asText();
+
+    FeelEngineWrapper feelEngine = new FeelEngineWrapper();
+
+    String selfHosted =
+        feelEngine.evaluate(
+            urlExpression,
+            String.class,
+            Map.of(
+                "apiBaseUrl", "http://localhost:8081",
+                "botToken", "abc123",
+                "operation", "sendDocument"));
+    assertThat(selfHosted).isEqualTo("http://localhost:8081/botabc123/sendDocument");
+
+    String withTrailingSlash =
+        feelEngine.evaluate(
+            urlExpression,
+            String.class,
+            Map.of(
+                "apiBaseUrl", "http://localhost:8081/",
+                "botToken", "abc123",
+                "operation", "sendDocument"));
+    assertThat(withTrailingSlash).isEqualTo("http://localhost:8081/botabc123/sendDocument");
+
+    Map<String, Object> emptyBaseUrl = new HashMap<>();
+    emptyBaseUrl.put("apiBaseUrl", "");
+    emptyBaseUrl.put("botToken", "abc123");
+    emptyBaseUrl.put("operation", "sendMessage");
+    assertThat(feelEngine.evaluate(urlExpression, String.class, emptyBaseUrl))
+        .isEqualTo("https://api.telegram.org/botabc123/sendMessage");
+
+    Map<String, Object> nullBaseUrl = new HashMap<>(emptyBaseUrl);
+    nullBaseUrl.put("apiBaseUrl", null);
+    assertThat(feelEngine.evaluate(urlExpression, String.class, nullBaseUrl))
+        .isEqualTo("https://api.telegram.org/botabc123/sendMessage");
+  }
+
+  @Test
+  void shouldExposeOptionalBotApiServerUrlBeforeUrlMapping() throws Exception {
+    JsonNode properties = readTemplate().path("properties");
+
+    JsonNode apiBaseUrl = findProperty(properties, "apiBaseUrl");
+    assertThat(apiBaseUrl).isNotNull();
+    assertThat(apiBaseUrl.path("group").asText()).isEqualTo("authentication");
+    assertThat(apiBaseUrl.path("optional").asBoolean()).isTrue();
+    assertThat(apiBaseUrl.path("binding").path("name").asText()).isEqualTo("apiBaseUrl");
+    assertThat(findPropertyIndex(properties, "urlHidden"))
+        .isGreaterThan(findPropertyIndex(properties, "apiBaseUrl"));
+  }
+
   @Test
   void shouldEvaluateGeneratedBodyFeelScript() throws Exception {
     JsonNode properties = readTemplate().path("properties");
@@ -347,6 +400,76 @@ public class TelegramOutboundTemplateTest {
     assertThat(retryCount.path("value").asText()).isEqualTo("3");
   }
 
+  @Test
+  void shouldMapNotModifiedEditRejectionWithDocumentedErrorExpression() throws Exception {
+    String errorExpression = readReadmeExpression("### Frequent message edits");
+    assertThat(errorExpression).contains("bpmnError(\"TELEGRAM_NOT_MODIFIED\"");
+
+    FeelEngineWrapper feelEngine = new FeelEngineWrapper();
+
+    Map<String, Object> notModified =
+        Map.of(
+            "error",
+            Map.of(
+                "code", "400",
+                "message", "Bad Request",
+                "response",
+                    Map.of(
+                        "body",
+                        Map.of(
+                            "ok", false,
+                            "error_code", 400,
+                            "description",
+                                "Bad Request: message is not modified: specified new message content and reply markup are exactly the same as a current content and reply markup of the message")))));
+    Object mapped = feelEngine.evaluate(errorExpression, notModified);
+    assertThat(mapped).isInstanceOf(Map.class);
+    assertThat((Map<?, ?>) mapped).containsEntry("code", "TELEGRAM_NOT_MODIFIED");
+
+    Map<String, Object> otherError =
+        Map.of(
+            "error",
+            Map.of(
+                "code", "400",
+                "message", "Bad Request",
+                "response",
+                    Map.of(
+                        "body",
+                        Map.of(
+                            "ok", false,
+                            "error_code", 400,
+                            "description", "Bad Request: chat not found"))));
+    assertThat(feelEngine.evaluate(errorExpression, otherError)).isNull();
+
+    Map<String, Object> withoutBody = Map.of("error", Map.of("code", "500", "message", "Internal Server Error"));
+    assertThat(feelEngine.evaluate(errorExpression, withoutBody)).isNull();
+  }
+
+  private static String readReadmeExpression(String sectionHeading) throws Exception {
+    List<String> lines = Files.readAllLines(resolveModuleFile("README.md"));
+    int sectionIndex = lines.indexOf(sectionHeading);
+    assertThat(sectionIndex).withFailMessage("README section %s not found", sectionHeading).isNotNegative();
+    for (int index = sectionIndex + 1; index < lines.size() && !lines.get(index).startsWith("#"); index++) {
+      if (lines.get(index).startsWith("```") && index + 1 < lines.size()) {
+        return lines.get(index + 1).trim();
+      }
+    }
+    throw new AssertionError("No expression block in README section " + sectionHeading);
+  }
+
+  private static Path resolveModuleFile(String fileName) {
+    Path moduleLocal = Path.of(fileName);
+    if (Files.exists(moduleLocal) && Files.exists(Path.of("src", "main", "java"))) {
+      return moduleLocal;
+    }
+
+    Path workspaceLocal = Path.of("connector-template-inbound", fileName);
+    if (Files.exists(workspaceLocal)) {
+      return workspaceLocal;
+    }
+
+    return moduleLocal;
+  }
+
   private static JsonNode readTemplate() throws Exception {
     Path templatePath = resolveModuleTemplatePath();
     return MAPPER.readTree(templatePath.toFile());